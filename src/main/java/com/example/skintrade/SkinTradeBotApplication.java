@@ -2,12 +2,20 @@ package com.example.skintrade;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SkinTradeBotApplication {
 
+    private static final int STARTUP_STEPS_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(SkinTradeBotApplication.class, args);
+        SpringApplication application = new SpringApplication(SkinTradeBotApplication.class);
+        // Record startup steps so StartupTimelineReporter can log where the time went
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
\ No newline at end of file
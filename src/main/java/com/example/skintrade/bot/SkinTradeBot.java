@@ -1,9 +1,16 @@
 package com.example.skintrade.bot;
 
 import com.example.skintrade.config.BotConfig;
+import com.example.skintrade.model.LeaderboardEntry;
+import com.example.skintrade.model.LeaderboardPeriod;
 import com.example.skintrade.model.Platform;
+import com.example.skintrade.model.PriceQuote;
 import com.example.skintrade.model.Trade;
+import com.example.skintrade.service.FxRateService;
+import com.example.skintrade.service.ItemPriceIndex;
+import com.example.skintrade.service.TradeLeaderboard;
 import com.example.skintrade.service.TradeService;
+import com.example.skintrade.service.UnknownCurrencyException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
@@ -32,17 +39,25 @@ public class SkinTradeBot extends TelegramLongPollingBot {
     private static final String COMMAND_TRADE = "/trade";
     private static final String COMMAND_HISTORY = "/history";
     private static final String COMMAND_FEES = "/fees";
+    private static final String COMMAND_TOP = "/top";
 
-    private static final Pattern TRADE_PATTERN = Pattern.compile("([a-zA-Z]+)=([0-9]+(\\.[0-9]+)?)");
+    private static final Pattern TRADE_PATTERN = Pattern.compile("([a-zA-Z]+)=([0-9]+(\\.[0-9]+)?)([a-zA-Z]{3})?");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     private final BotConfig config;
     private final TradeService tradeService;
+    private final TradeLeaderboard tradeLeaderboard;
+    private final FxRateService fxRateService;
+    private final ItemPriceIndex itemPriceIndex;
 
-    public SkinTradeBot(BotConfig config, TradeService tradeService) {
+    public SkinTradeBot(BotConfig config, TradeService tradeService, TradeLeaderboard tradeLeaderboard,
+                        FxRateService fxRateService, ItemPriceIndex itemPriceIndex) {
         super(config.getToken());
         this.config = config;
         this.tradeService = tradeService;
+        this.tradeLeaderboard = tradeLeaderboard;
+        this.fxRateService = fxRateService;
+        this.itemPriceIndex = itemPriceIndex;
     }
 
     @Override
@@ -75,6 +90,8 @@ public class SkinTradeBot extends TelegramLongPollingBot {
                 sendTradeHistory(chatId, update.getMessage().getFrom().getId());
             } else if (messageText.startsWith(COMMAND_FEES)) {
                 sendFeesMessage(chatId);
+            } else if (messageText.startsWith(COMMAND_TOP)) {
+                sendTopTrades(chatId, messageText);
             } else {
                 sendMessage(chatId, "Unknown command. Type /help for available commands.");
             }
@@ -96,9 +113,13 @@ public class SkinTradeBot extends TelegramLongPollingBot {
                 "/start - Show greeting and usage instructions\n" +
                 "/trade site=price site=price ... - Calculate best/worst price, profit, and percentage\n" +
                 "  Example: /trade steam=100 csm=95 float=90\n" +
+                "  Add a currency code to a price to convert it: /trade steam=90eur csm=95\n" +
                 "  Supported platforms: steam, float, csm, csmm, csmar\n" +
+                "/trade item name - Compare imported market prices of an item\n" +
+                "  Example: /trade AK-47 | Redline (Field-Tested)\n" +
                 "/fees - Show fee rates for all supported platforms\n" +
                 "/history - Show your last 10 saved trades\n" +
+                "/top [day|week|all] - Show the best spreads of all users\n" +
                 "/help - Show this help message\n\n" +
                 "You can also use the buttons below for quick access to commands.";
         sendMessage(chatId, message, true);
@@ -114,7 +135,7 @@ public class SkinTradeBot extends TelegramLongPollingBot {
             return;
         }
 
-        Map<String, BigDecimal> platformPrices = new HashMap<>();
+        Map<String, PriceQuote> quotes = new LinkedHashMap<>();
         Matcher matcher = TRADE_PATTERN.matcher(tradeParams);
 
         // Track the first platform mentioned in the command
@@ -123,16 +144,23 @@ public class SkinTradeBot extends TelegramLongPollingBot {
         while (matcher.find()) {
             String platform = matcher.group(1).toLowerCase();
             BigDecimal price = new BigDecimal(matcher.group(2));
+            String currency = matcher.group(4);
 
             // Record the first platform we encounter
             if (firstPlatform == null) {
                 firstPlatform = platform;
             }
 
-            platformPrices.put(platform, price);
+            quotes.put(platform, new PriceQuote(platform, price, currency));
         }
 
-        if (platformPrices.size() < 2) {
+        // No platform=price pairs at all, treat the parameters as an item name
+        if (quotes.isEmpty()) {
+            processItemTrade(chatId, username, tradeParams);
+            return;
+        }
+
+        if (quotes.size() < 2) {
             sendMessage(chatId, "Please provide at least two valid platform=price pairs.\n" +
                     "Example: /trade steam=100 csm=95 float=90");
             return;
@@ -143,25 +171,47 @@ public class SkinTradeBot extends TelegramLongPollingBot {
             Trade trade = tradeService.calculateAndSaveTrade(
                     chatId, 
                     username, 
-                    platformPrices
+                    new ArrayList<>(quotes.values())
             );
 
             // Format and send result
             String result = formatTradeResult(trade, firstPlatform);
             sendMessage(chatId, result);
 
+        } catch (UnknownCurrencyException e) {
+            sendMessage(chatId, "Error: " + e.getMessage() + "\n" +
+                    "Supported currencies: " + String.join(", ", fxRateService.getSupportedCurrencies()));
         } catch (IllegalArgumentException e) {
             sendMessage(chatId, "Error: " + e.getMessage() + "\n" +
                     "Supported platforms: steam, float, csm, csmm, csmar");
         }
     }
 
+    private void processItemTrade(Long chatId, String username, String itemName) {
+        Map<Platform, BigDecimal> prices = itemPriceIndex.lookup(itemName);
+
+        if (prices.size() < 2) {
+            sendMessage(chatId, "No imported prices for \"" + itemName + "\" on at least two platforms.\n" +
+                    "Use platform=price pairs instead, e.g. /trade steam=100 csm=95 float=90");
+            return;
+        }
+
+        // Imported prices are already in the base currency
+        Map<String, BigDecimal> platformPrices = new LinkedHashMap<>();
+        prices.forEach((platform, price) -> platformPrices.put(platform.getCode(), price));
+
+        Trade trade = tradeService.calculateAndSaveTrade(chatId, username, platformPrices);
+
+        // The cheapest platform is where the item is bought
+        sendMessage(chatId, "Item: " + itemName + "\n\n" + formatTradeResult(trade, trade.getWorstPlatform()));
+    }
+
     private String formatTradeResult(Trade trade, String firstPlatform) {
         StringBuilder sb = new StringBuilder();
         sb.append("📊 Trade Analysis\n\n");
 
         // Platform prices
-        sb.append("Prices:\n");
+        sb.append("Prices (").append(fxRateService.getBaseCurrency()).append("):\n");
         for (Map.Entry<String, BigDecimal> entry : trade.getPrices().entrySet()) {
             String platformName = entry.getKey();
             BigDecimal price = entry.getValue();
@@ -217,9 +267,10 @@ public class SkinTradeBot extends TelegramLongPollingBot {
             String feePercentage = platform.getFeeRate().multiply(BigDecimal.valueOf(100))
                     .setScale(0, RoundingMode.HALF_UP) + "%";
 
-            sb.append(String.format("• %s: %s\n", 
+            sb.append(String.format("• %s: %s (prices in %s)\n", 
                     platform.getCode().toUpperCase(), 
-                    feePercentage));
+                    feePercentage,
+                    fxRateService.getDefaultCurrency(platform)));
         }
 
         sb.append("\nExample calculation:\n");
@@ -286,6 +337,40 @@ public class SkinTradeBot extends TelegramLongPollingBot {
         }
     }
 
+    private void sendTopTrades(Long chatId, String messageText) {
+        String periodParam = messageText.substring(COMMAND_TOP.length()).trim();
+
+        LeaderboardPeriod period;
+        try {
+            period = periodParam.isEmpty() ? LeaderboardPeriod.DAY : LeaderboardPeriod.fromCode(periodParam);
+        } catch (IllegalArgumentException e) {
+            sendMessage(chatId, "Error: " + e.getMessage() + "\n" +
+                    "Usage: /top [day|week|all]");
+            return;
+        }
+
+        List<LeaderboardEntry> entries = tradeLeaderboard.getTop(period);
+        if (entries.isEmpty()) {
+            sendMessage(chatId, "No trades for this period yet.");
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("🏆 Top spreads (").append(period.getCode()).append("):\n\n");
+
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            sb.append(String.format("%d. %.2f%% %s → %s (%s)\n",
+                    i + 1,
+                    entry.profitPercentage(),
+                    entry.worstPlatform(),
+                    entry.bestPlatform(),
+                    entry.username() != null ? entry.username() : "anonymous"));
+        }
+
+        sendMessage(chatId, sb.toString());
+    }
+
     private void sendMessage(Long chatId, String text) {
         sendMessage(chatId, text, false);
     }
@@ -326,9 +411,10 @@ public class SkinTradeBot extends TelegramLongPollingBot {
         row2.add(new KeyboardButton(COMMAND_FEES));
         keyboard.add(row2);
 
-        // Third row with history command
+        // Third row with history and top commands
         KeyboardRow row3 = new KeyboardRow();
         row3.add(new KeyboardButton(COMMAND_HISTORY));
+        row3.add(new KeyboardButton(COMMAND_TOP));
         keyboard.add(row3);
 
         keyboardMarkup.setKeyboard(keyboard);
@@ -0,0 +1,79 @@
+package com.example.skintrade.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Logs time-to-ready, resident memory and the slowest startup steps once the application is ready
+ */
+@Component
+@Slf4j
+public class StartupTimelineReporter {
+
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private final int topSteps;
+
+    public StartupTimelineReporter(@Value("${startup.timeline.top-steps:10}") int topSteps) {
+        this.topSteps = topSteps;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms ({} ms since JVM start), RSS: {}",
+                event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                readResidentSetSize());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering) || topSteps <= 0) {
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(buffering.drainBufferedTimeline().getEvents());
+        events.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+
+        log.info("Slowest {} of {} startup steps:", Math.min(topSteps, events.size()), events.size());
+        for (StartupTimeline.TimelineEvent timelineEvent : events.subList(0, Math.min(topSteps, events.size()))) {
+            StartupStep step = timelineEvent.getStartupStep();
+            log.info("  {} ms {} {}", timelineEvent.getDuration().toMillis(), step.getName(), formatTags(step));
+        }
+    }
+
+    private String formatTags(StartupStep step) {
+        List<String> tags = new ArrayList<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return tags.isEmpty() ? "" : tags.toString();
+    }
+
+    private String readResidentSetSize() {
+        try {
+            return Files.readAllLines(PROC_STATUS).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.substring("VmRSS:".length()).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException | UnsupportedOperationException e) {
+            // Not on Linux, fall back to the heap in use
+            Runtime runtime = Runtime.getRuntime();
+            return "heap " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + " MB";
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.skintrade.config;
 import com.example.skintrade.bot.SkinTradeBot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -10,9 +11,12 @@ import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
+import java.lang.management.ManagementFactory;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@Lazy(false)
 public class TelegramBotInitializer {
 
     private final SkinTradeBot bot;
@@ -22,7 +26,8 @@ public class TelegramBotInitializer {
         try {
             TelegramBotsApi telegramBotsApi = new TelegramBotsApi(DefaultBotSession.class);
             telegramBotsApi.registerBot(bot);
-            log.info("Telegram bot registered successfully");
+            log.info("Telegram bot registered successfully {} ms after JVM start",
+                    ManagementFactory.getRuntimeMXBean().getUptime());
         } catch (TelegramApiException e) {
             log.error("Error registering Telegram bot: {}", e.getMessage(), e);
         }
@@ -0,0 +1,43 @@
+package com.example.skintrade.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a broadcast, saved after every page of recipients so a restart resumes where it stopped
+ */
+@Entity
+@Table(name = "broadcast_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastCheckpoint {
+
+    @Id
+    @Column(name = "broadcast_id")
+    private String broadcastId;
+
+    @Column(name = "last_user_id")
+    private Long lastUserId;
+
+    @Column(name = "sent_count")
+    private long sentCount;
+
+    @Column(name = "failed_count")
+    private long failedCount;
+
+    @Column(name = "fees", length = 1000)
+    private String fees;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
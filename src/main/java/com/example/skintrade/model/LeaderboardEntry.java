@@ -0,0 +1,26 @@
+package com.example.skintrade.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight view of a trade kept in the in-memory leaderboard
+ */
+public record LeaderboardEntry(
+        Long tradeId,
+        String username,
+        String bestPlatform,
+        String worstPlatform,
+        BigDecimal profitPercentage,
+        LocalDateTime createdAt) {
+
+    public static LeaderboardEntry from(Trade trade) {
+        return new LeaderboardEntry(
+                trade.getId(),
+                trade.getUsername(),
+                trade.getBestPlatform(),
+                trade.getWorstPlatform(),
+                trade.getProfitPercentage(),
+                trade.getCreatedAt());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.skintrade.model;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public enum LeaderboardPeriod {
+    DAY("day"),
+    WEEK("week"),
+    ALL("all");
+
+    private final String code;
+
+    private static final Map<String, LeaderboardPeriod> BY_CODE =
+            Arrays.stream(values())
+                  .collect(Collectors.toMap(LeaderboardPeriod::getCode, Function.identity()));
+
+    LeaderboardPeriod(String code) {
+        this.code = code;
+    }
+
+    public static LeaderboardPeriod fromCode(String code) {
+        LeaderboardPeriod period = BY_CODE.get(code.toLowerCase());
+        if (period == null) {
+            throw new IllegalArgumentException("Unknown period: " + code);
+        }
+        return period;
+    }
+
+    /**
+     * Get the start of the time bucket that contains the given moment
+     *
+     * @param now the moment to resolve the bucket for
+     * @return the first moment of the bucket (calendar day, ISO week or the beginning of time)
+     */
+    public LocalDateTime windowStart(LocalDateTime now) {
+        return switch (this) {
+            case DAY -> now.toLocalDate().atStartOfDay();
+            case WEEK -> now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            case ALL -> LocalDateTime.MIN;
+        };
+    }
+}
@@ -10,22 +10,24 @@ import java.util.stream.Collectors;
 
 @Getter
 public enum Platform {
-    STEAM("steam", new BigDecimal("0.15")),
-    FLOAT("float", new BigDecimal("0.10")),
-    CSM("csm", new BigDecimal("0.05")),
-    CSMM("csmm", new BigDecimal("0.02")),
-    CSMAR("csmar", new BigDecimal("0.01"));
+    STEAM("steam", new BigDecimal("0.15"), "USD"),
+    FLOAT("float", new BigDecimal("0.10"), "USD"),
+    CSM("csm", new BigDecimal("0.05"), "USD"),
+    CSMM("csmm", new BigDecimal("0.02"), "USD"),
+    CSMAR("csmar", new BigDecimal("0.01"), "USD");
 
     private final String code;
     private final BigDecimal feeRate;
+    private final String defaultCurrency;
 
     private static final Map<String, Platform> BY_CODE = 
             Arrays.stream(values())
                   .collect(Collectors.toMap(Platform::getCode, Function.identity()));
 
-    Platform(String code, BigDecimal feeRate) {
+    Platform(String code, BigDecimal feeRate, String defaultCurrency) {
         this.code = code;
         this.feeRate = feeRate;
+        this.defaultCurrency = defaultCurrency;
     }
 
     public static Platform fromCode(String code) {
@@ -0,0 +1,13 @@
+package com.example.skintrade.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A price quoted on a platform, optionally in an explicit currency
+ *
+ * @param platform platform code
+ * @param amount quoted price
+ * @param currency ISO currency code, or {@code null} for the platform's default currency
+ */
+public record PriceQuote(String platform, BigDecimal amount, String currency) {
+}
@@ -0,0 +1,13 @@
+package com.example.skintrade.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated trades of one user over a period
+ */
+public record TradeSummary(
+        Long userId,
+        Long tradeCount,
+        BigDecimal totalProfit,
+        BigDecimal bestProfitPercentage) {
+}
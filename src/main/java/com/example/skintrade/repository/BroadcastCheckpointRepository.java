@@ -0,0 +1,24 @@
+package com.example.skintrade.repository;
+
+import com.example.skintrade.model.BroadcastCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BroadcastCheckpointRepository extends JpaRepository<BroadcastCheckpoint, String> {
+
+    /**
+     * Find broadcasts that were interrupted before reaching the last recipient
+     * @return unfinished broadcasts, oldest first
+     */
+    List<BroadcastCheckpoint> findByCompletedAtIsNullOrderByStartedAtAsc();
+
+    /**
+     * Find the most recently completed broadcast
+     * @return the last completed broadcast, if any
+     */
+    Optional<BroadcastCheckpoint> findFirstByCompletedAtIsNotNullOrderByCompletedAtDesc();
+}
@@ -0,0 +1,79 @@
+package com.example.skintrade.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk access to the {@code item_prices} table, bypassing the persistence context
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemPriceJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO item_prices (item_name, platform, price, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (item_name, platform) DO UPDATE SET price = EXCLUDED.price, updated_at = EXCLUDED.updated_at";
+    private static final String SELECT_ALL_SQL = "SELECT item_name, platform, price FROM item_prices";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert or update the prices of one platform in a single JDBC batch
+     * @param platform the platform code
+     * @param prices item names mapped to prices
+     * @param updatedAt the import time
+     */
+    @Transactional
+    public void upsert(String platform, Map<String, BigDecimal> prices, LocalDateTime updatedAt) {
+        List<Map.Entry<String, BigDecimal>> rows = new ArrayList<>(prices.entrySet());
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<String, BigDecimal> row = rows.get(i);
+                ps.setString(1, row.getKey());
+                ps.setString(2, platform);
+                ps.setBigDecimal(3, row.getValue());
+                ps.setTimestamp(4, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * Stream every stored price to the handler without loading the table into memory
+     * @param handler receives item name, platform code and price of each row
+     */
+    @Transactional(readOnly = true)
+    public void forEachPrice(PriceRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ALL_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getString(1), rs.getString(2), rs.getBigDecimal(3)));
+    }
+
+    @FunctionalInterface
+    public interface PriceRowHandler {
+        void accept(String itemName, String platform, BigDecimal price);
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.skintrade.repository;
 
+import com.example.skintrade.model.LeaderboardEntry;
 import com.example.skintrade.model.Trade;
+import com.example.skintrade.model.TradeSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TradeRepository extends JpaRepository<Trade, Long> {
@@ -24,4 +34,36 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
      * @return a list of trades ordered by creation date (newest first)
      */
     List<Trade> findTop10ByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * Stream the leaderboard view of every trade without loading the price maps.
+     * Must be consumed inside a transaction and closed afterwards.
+     * @return a stream of leaderboard entries
+     */
+    @Query("select new com.example.skintrade.model.LeaderboardEntry(" +
+            "t.id, t.username, t.bestPlatform, t.worstPlatform, t.profitPercentage, t.createdAt) " +
+            "from Trade t where t.profitPercentage is not null")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<LeaderboardEntry> streamLeaderboardEntries();
+
+    /**
+     * Find the next page of distinct users using keyset pagination
+     * @param afterUserId the last user ID of the previous page
+     * @param pageable the page size (the page number must stay 0)
+     * @return user IDs greater than afterUserId in ascending order
+     */
+    @Query("select distinct t.userId from Trade t where t.userId > :afterUserId order by t.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * Aggregate the trades of several users since a given moment
+     * @param userIds the Telegram user IDs
+     * @param since the start of the period
+     * @return one summary per user that has trades in the period
+     */
+    @Query("select new com.example.skintrade.model.TradeSummary(" +
+            "t.userId, count(t), sum(t.profit), max(t.profitPercentage)) " +
+            "from Trade t where t.userId in :userIds and t.createdAt >= :since group by t.userId")
+    List<TradeSummary> summarizeTradesSince(@Param("userIds") Collection<Long> userIds,
+                                            @Param("since") LocalDateTime since);
 }
\ No newline at end of file
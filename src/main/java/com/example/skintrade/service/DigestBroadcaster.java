@@ -0,0 +1,325 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.bot.SkinTradeBot;
+import com.example.skintrade.model.BroadcastCheckpoint;
+import com.example.skintrade.model.Platform;
+import com.example.skintrade.model.TradeSummary;
+import com.example.skintrade.repository.BroadcastCheckpointRepository;
+import com.example.skintrade.repository.TradeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends the daily digest (platform fee changes and a personal P&L summary) to every user that has saved a trade.
+ * <p>
+ * Recipients are read page by page with keyset pagination on the user ID. Each page is summarized with a
+ * single query, then rendered and sent in parallel under a global and a per-chat rate limit. A retry-after
+ * answer pauses all senders. Recipients that failed for a transient reason (network errors, server errors,
+ * rate limits) are retried before the page is checkpointed; recipients that blocked the bot are counted as
+ * failed. Progress is checkpointed after every page, so after a restart the broadcast resumes with the next
+ * page; at most one page can be delivered twice.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class DigestBroadcaster {
+
+    private static final String DIGEST_PREFIX = "digest-";
+    private static final int MAX_SEND_ATTEMPTS = 3;
+    private static final int MAX_PAGE_ROUNDS = 3;
+
+    private final TradeRepository tradeRepository;
+    private final BroadcastCheckpointRepository checkpointRepository;
+    private final FxRateService fxRateService;
+    private final SkinTradeBot bot;
+    private final SendRateLimiter rateLimiter;
+    private final int pageSize;
+    private final Duration retryBackoff;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "digest-broadcast"));
+    private final ExecutorService senders;
+
+    public DigestBroadcaster(TradeRepository tradeRepository,
+                             BroadcastCheckpointRepository checkpointRepository,
+                             FxRateService fxRateService,
+                             SkinTradeBot bot,
+                             @Value("${digest.page-size:500}") int pageSize,
+                             @Value("${digest.workers:8}") int workers,
+                             @Value("${digest.messages-per-second:25}") int messagesPerSecond,
+                             @Value("${digest.chat-interval:PT1S}") Duration chatInterval,
+                             @Value("${digest.retry-backoff:PT5S}") Duration retryBackoff) {
+        this.tradeRepository = tradeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.fxRateService = fxRateService;
+        this.bot = bot;
+        this.rateLimiter = new SendRateLimiter(messagesPerSecond, chatInterval);
+        this.pageSize = pageSize;
+        this.retryBackoff = retryBackoff;
+        this.senders = Executors.newFixedThreadPool(workers);
+    }
+
+    /**
+     * Start today's digest unless it has already been sent
+     */
+    @Scheduled(cron = "${digest.cron:0 0 9 * * *}")
+    public void startDailyDigest() {
+        runner.submit(() -> {
+            String broadcastId = DIGEST_PREFIX + LocalDate.now();
+            if (checkpointRepository.existsById(broadcastId)) {
+                log.info("Digest {} already started, skipping", broadcastId);
+                return;
+            }
+
+            BroadcastCheckpoint checkpoint = checkpointRepository.save(BroadcastCheckpoint.builder()
+                    .broadcastId(broadcastId)
+                    .fees(encodeFees())
+                    .startedAt(LocalDateTime.now())
+                    .build());
+            runSafely(checkpoint);
+        });
+    }
+
+    /**
+     * Resume broadcasts interrupted by a restart
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        runner.submit(() -> {
+            for (BroadcastCheckpoint checkpoint : checkpointRepository.findByCompletedAtIsNullOrderByStartedAtAsc()) {
+                log.info("Resuming {} after user {}", checkpoint.getBroadcastId(), checkpoint.getLastUserId());
+                runSafely(checkpoint);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private void runSafely(BroadcastCheckpoint checkpoint) {
+        try {
+            run(checkpoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} interrupted after user {}", checkpoint.getBroadcastId(), checkpoint.getLastUserId());
+        } catch (Exception e) {
+            log.error("Error broadcasting {}: {}", checkpoint.getBroadcastId(), e.getMessage(), e);
+        }
+    }
+
+    void run(BroadcastCheckpoint checkpoint) throws InterruptedException {
+        String feeSection = renderFeeChanges(checkpoint);
+        LocalDateTime since = checkpoint.getStartedAt().minusDays(1);
+        long startedAt = System.nanoTime();
+        long delivered = 0;
+
+        Long cursor = checkpoint.getLastUserId() != null ? checkpoint.getLastUserId() : Long.MIN_VALUE;
+        List<Long> userIds;
+
+        while (!(userIds = tradeRepository.findUserIdsAfter(cursor, PageRequest.of(0, pageSize))).isEmpty()) {
+            Map<Long, TradeSummary> summaries = tradeRepository.summarizeTradesSince(userIds, since).stream()
+                    .collect(Collectors.toMap(TradeSummary::userId, Function.identity()));
+
+            long sent = deliverPage(checkpoint.getBroadcastId(), userIds,
+                    userId -> render(feeSection, summaries.get(userId)));
+
+            cursor = userIds.get(userIds.size() - 1);
+            checkpoint.setLastUserId(cursor);
+            checkpoint.setSentCount(checkpoint.getSentCount() + sent);
+            checkpoint.setFailedCount(checkpoint.getFailedCount() + userIds.size() - sent);
+            checkpointRepository.save(checkpoint);
+
+            delivered += userIds.size();
+            log.info("{}: {} sent, {} failed, {} msg/s", checkpoint.getBroadcastId(),
+                    checkpoint.getSentCount(), checkpoint.getFailedCount(), ratePerSecond(delivered, startedAt));
+        }
+
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        log.info("{} completed: {} sent, {} failed, {} msg/s", checkpoint.getBroadcastId(),
+                checkpoint.getSentCount(), checkpoint.getFailedCount(), ratePerSecond(delivered, startedAt));
+    }
+
+    /**
+     * Send one page, retrying transient failures in rounds with a growing pause
+     *
+     * @return the number of recipients the digest was delivered to
+     */
+    private long deliverPage(String broadcastId, List<Long> userIds, Function<Long, String> text)
+            throws InterruptedException {
+        List<Long> pending = userIds;
+        long sent = 0;
+
+        for (int round = 1; ; round++) {
+            List<CompletableFuture<Delivery>> deliveries = pending.stream()
+                    .map(userId -> CompletableFuture.supplyAsync(() -> send(userId, text.apply(userId)), senders))
+                    .collect(Collectors.toList());
+
+            List<Long> retry = new ArrayList<>();
+            try {
+                for (int i = 0; i < pending.size(); i++) {
+                    Delivery delivery = deliveries.get(i).get();
+                    if (delivery == Delivery.SENT) {
+                        sent++;
+                    } else if (delivery == Delivery.RETRY) {
+                        retry.add(pending.get(i));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: drop the rest of the page, it is sent again after the restart
+                deliveries.forEach(delivery -> delivery.cancel(true));
+                throw e;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Error sending digest page", e.getCause());
+            }
+
+            if (retry.isEmpty()) {
+                return sent;
+            }
+            if (round == MAX_PAGE_ROUNDS) {
+                log.warn("{}: giving up on {} recipients after {} rounds", broadcastId, retry.size(), round);
+                return sent;
+            }
+            log.info("{}: retrying {} recipients", broadcastId, retry.size());
+            TimeUnit.MILLISECONDS.sleep(retryBackoff.toMillis() * round);
+            pending = retry;
+        }
+    }
+
+    private Delivery send(Long chatId, String text) {
+        SendMessage message = new SendMessage();
+        message.setChatId(chatId.toString());
+        message.setText(text);
+
+        for (int attempt = 1; attempt <= MAX_SEND_ATTEMPTS; attempt++) {
+            try {
+                rateLimiter.acquire(chatId);
+                bot.execute(message);
+                return Delivery.SENT;
+            } catch (TelegramApiRequestException e) {
+                Integer retryAfter = e.getParameters() != null ? e.getParameters().getRetryAfter() : null;
+                if (retryAfter != null) {
+                    // Flood control applies to the bot, not the chat, so every sender has to wait
+                    rateLimiter.pause(Duration.ofSeconds(retryAfter));
+                    continue;
+                }
+                if (isPermanent(e.getErrorCode())) {
+                    log.warn("Digest not delivered to {}: {}", chatId, e.getMessage());
+                    return Delivery.FAILED;
+                }
+                log.debug("Digest to {} failed, will retry: {}", chatId, e.getMessage());
+                return Delivery.RETRY;
+            } catch (TelegramApiException e) {
+                log.debug("Digest to {} failed, will retry: {}", chatId, e.getMessage());
+                return Delivery.RETRY;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Delivery.RETRY;
+            }
+        }
+        return Delivery.RETRY;
+    }
+
+    /**
+     * Client errors such as a blocked bot (403) or a deleted chat (400) will not go away on retry
+     */
+    private static boolean isPermanent(Integer errorCode) {
+        return errorCode != null && errorCode >= 400 && errorCode < 500 && errorCode != 429;
+    }
+
+    String render(String feeSection, TradeSummary summary) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("📬 Daily digest\n\n");
+        sb.append(feeSection).append("\n");
+
+        sb.append("Your last 24 hours:\n");
+        if (summary == null || summary.tradeCount() == 0) {
+            sb.append("No trades saved. Use /trade to compare platforms.");
+        } else {
+            sb.append(String.format("• Trades: %d\n", summary.tradeCount()));
+            sb.append(String.format("• Total profit: %.2f %s\n", summary.totalProfit(), fxRateService.getBaseCurrency()));
+            sb.append(String.format("• Best spread: %.2f%%", summary.bestProfitPercentage()));
+        }
+        return sb.toString();
+    }
+
+    private String renderFeeChanges(BroadcastCheckpoint checkpoint) {
+        Map<String, BigDecimal> previous = checkpointRepository.findFirstByCompletedAtIsNotNullOrderByCompletedAtDesc()
+                .filter(last -> !last.getBroadcastId().equals(checkpoint.getBroadcastId()))
+                .map(last -> decodeFees(last.getFees()))
+                .orElse(Map.of());
+        Map<String, BigDecimal> current = decodeFees(checkpoint.getFees());
+
+        StringBuilder sb = new StringBuilder();
+        for (Platform platform : Platform.values()) {
+            BigDecimal before = previous.get(platform.getCode());
+            BigDecimal after = current.get(platform.getCode());
+            if (before != null && after != null && before.compareTo(after) != 0) {
+                sb.append(String.format("• %s: %s → %s\n",
+                        platform.getCode().toUpperCase(), formatFee(before), formatFee(after)));
+            }
+        }
+        return sb.length() == 0 ? "Platform fees unchanged. See /fees.\n" : "💰 Fee changes:\n" + sb;
+    }
+
+    private static String encodeFees() {
+        return Arrays.stream(Platform.values())
+                .map(platform -> platform.getCode() + "=" + platform.getFeeRate().toPlainString())
+                .collect(Collectors.joining(";"));
+    }
+
+    private static Map<String, BigDecimal> decodeFees(String fees) {
+        Map<String, BigDecimal> result = new HashMap<>();
+        if (fees == null || fees.isBlank()) {
+            return result;
+        }
+        for (String entry : fees.split(";")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length == 2) {
+                result.put(parts[0], new BigDecimal(parts[1]));
+            }
+        }
+        return result;
+    }
+
+    private static String formatFee(BigDecimal feeRate) {
+        return feeRate.multiply(BigDecimal.valueOf(100)).stripTrailingZeros().toPlainString() + "%";
+    }
+
+    private enum Delivery {
+        SENT, FAILED, RETRY
+    }
+
+    private static long ratePerSecond(long messages, long startedAtNanos) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAtNanos) / 1_000_000);
+        return messages * 1000 / elapsedMillis;
+    }
+}
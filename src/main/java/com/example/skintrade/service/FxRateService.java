@@ -0,0 +1,167 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Converts quoted prices into the base currency.
+ * <p>
+ * Rates are read from a properties file ({@code EUR=1.08} means one EUR is worth 1.08 of the
+ * base currency) into an immutable snapshot that is swapped atomically on refresh, so
+ * conversions never block and never touch the database.
+ * <p>
+ * The currency of prices quoted without a code can be set per platform with
+ * {@code fx.platform-currency.<platform>=EUR}; otherwise {@link Platform#getDefaultCurrency()} applies.
+ */
+@Service
+@Slf4j
+public class FxRateService {
+
+    private static final int RATE_SCALE = 8;
+    private static final int PRICE_SCALE = 2;
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3}");
+    private static final String PLATFORM_CURRENCY_PREFIX = "fx.platform-currency.";
+
+    private final String baseCurrency;
+    private final Resource ratesResource;
+    private final Map<Platform, String> platformCurrencies = new EnumMap<>(Platform.class);
+    private final AtomicReference<Map<String, BigDecimal>> ratesToBase = new AtomicReference<>();
+
+    public FxRateService(@Value("${fx.base-currency:USD}") String baseCurrency,
+                         @Value("${fx.rates-location:file:fx-rates.properties}") Resource ratesResource,
+                         Environment environment) {
+        this.baseCurrency = normalize(baseCurrency);
+        this.ratesResource = ratesResource;
+        for (Platform platform : Platform.values()) {
+            String currency = environment.getProperty(PLATFORM_CURRENCY_PREFIX + platform.getCode(),
+                    platform.getDefaultCurrency());
+            platformCurrencies.put(platform, normalize(currency));
+        }
+        this.ratesToBase.set(Map.of(this.baseCurrency, BigDecimal.ONE));
+        refresh();
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    /**
+     * Get the currency of prices quoted on a platform without an explicit currency code
+     *
+     * @param platform the platform
+     * @return the configured currency, or the platform's built-in default
+     */
+    public String getDefaultCurrency(Platform platform) {
+        return platformCurrencies.get(platform);
+    }
+
+    /**
+     * Get the currencies prices can currently be quoted in
+     *
+     * @return currency codes of the loaded rates, including the base currency, in alphabetical order
+     */
+    public SortedSet<String> getSupportedCurrencies() {
+        return new TreeSet<>(ratesToBase.get().keySet());
+    }
+
+    /**
+     * Convert an amount into the base currency
+     *
+     * @param amount the quoted amount
+     * @param currency ISO currency code of the amount
+     * @return the amount in the base currency, rounded to cents
+     * @throws UnknownCurrencyException if there is no rate for the currency
+     */
+    public BigDecimal toBase(BigDecimal amount, String currency) {
+        String code = normalize(currency);
+        if (code.equals(baseCurrency)) {
+            return amount.setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal rate = ratesToBase.get().get(code);
+        if (rate == null) {
+            throw new UnknownCurrencyException(code);
+        }
+        return amount.multiply(rate).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Reload the rates file; the previous snapshot is kept if the file is missing or invalid
+     */
+    @Scheduled(fixedDelayString = "${fx.refresh-interval:PT1H}", initialDelayString = "${fx.refresh-interval:PT1H}")
+    public void refresh() {
+        if (!ratesResource.exists()) {
+            log.info("FX rates file {} not found, only {} prices are accepted", ratesResource.getDescription(), baseCurrency);
+            warnMissingPlatformRates();
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = ratesResource.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.error("Error reading FX rates from {}: {}", ratesResource.getDescription(), e.getMessage(), e);
+            warnMissingPlatformRates();
+            return;
+        }
+
+        Map<String, BigDecimal> loaded = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            String code = normalize(name);
+            BigDecimal rate;
+            try {
+                rate = new BigDecimal(properties.getProperty(name).trim());
+            } catch (NumberFormatException e) {
+                log.error("Invalid FX rate for {}: {}", code, properties.getProperty(name));
+                warnMissingPlatformRates();
+                return;
+            }
+            if (!CURRENCY_CODE.matcher(code).matches() || rate.signum() <= 0) {
+                log.error("Invalid FX rate entry {}={}", name, rate);
+                warnMissingPlatformRates();
+                return;
+            }
+            loaded.put(code, rate.setScale(RATE_SCALE, RoundingMode.HALF_UP));
+        }
+        loaded.put(baseCurrency, BigDecimal.ONE);
+
+        ratesToBase.set(Map.copyOf(loaded));
+        log.info("Loaded {} FX rates from {}", loaded.size(), ratesResource.getDescription());
+        warnMissingPlatformRates();
+    }
+
+    /**
+     * Prices typed without a currency code and price dumps of these platforms cannot be converted
+     */
+    private void warnMissingPlatformRates() {
+        Map<String, BigDecimal> rates = ratesToBase.get();
+        platformCurrencies.forEach((platform, currency) -> {
+            if (!rates.containsKey(currency)) {
+                log.warn("No FX rate for {}, the default currency of {}: its quotes and price dumps will be rejected",
+                        currency, platform.getCode());
+            }
+        });
+    }
+
+    private static String normalize(String currency) {
+        return currency.trim().toUpperCase();
+    }
+}
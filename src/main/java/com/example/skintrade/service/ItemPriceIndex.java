@@ -0,0 +1,144 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import com.example.skintrade.repository.ItemPriceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * In-memory item to prices index used to auto-fill {@code /trade <item>}.
+ * <p>
+ * Every distinct item name is stored once in a dictionary that maps it to a dense id; prices live
+ * in a single flat array of cents indexed by {@code id * platforms + platform ordinal}. Lookups read
+ * an immutable snapshot without locking; writers build a new snapshot and publish it atomically.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemPriceIndex {
+
+    private static final Platform[] PLATFORMS = Platform.values();
+    private static final long MISSING = -1;
+
+    private final ItemPriceJdbcRepository itemPriceRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new long[0]);
+
+    /**
+     * Get the imported prices of an item
+     *
+     * @param itemName item name, case-insensitive
+     * @return prices in the base currency per platform, empty if the item is unknown
+     */
+    public Map<Platform, BigDecimal> lookup(String itemName) {
+        Snapshot current = snapshot;
+        Integer id = current.ids().get(normalize(itemName));
+        if (id == null) {
+            return Map.of();
+        }
+
+        Map<Platform, BigDecimal> prices = new EnumMap<>(Platform.class);
+        for (Platform platform : PLATFORMS) {
+            long cents = current.cents()[id * PLATFORMS.length + platform.ordinal()];
+            if (cents != MISSING) {
+                prices.put(platform, BigDecimal.valueOf(cents, 2));
+            }
+        }
+        return prices;
+    }
+
+    public int size() {
+        return snapshot.ids().size();
+    }
+
+    /**
+     * Apply changes on top of the current index and publish the result
+     *
+     * @param changes receives a builder seeded with the current contents; it may be used from several threads
+     */
+    public synchronized void update(Consumer<Builder> changes) {
+        Builder builder = new Builder(snapshot);
+        changes.accept(builder);
+        snapshot = builder.build();
+    }
+
+    /**
+     * Rebuild the index from the item price table in a single streaming pass
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Builder builder = new Builder(new Snapshot(Map.of(), new long[0]));
+
+        itemPriceRepository.forEachPrice((itemName, platformCode, price) -> {
+            if (Platform.isValidPlatform(platformCode)) {
+                builder.put(itemName, Platform.fromCode(platformCode), price);
+            }
+        });
+
+        snapshot = builder.build();
+        log.info("Item price index rebuilt with {} items in {} ms", size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private static String normalize(String itemName) {
+        return itemName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(Map<String, Integer> ids, long[] cents) {
+    }
+
+    /**
+     * Mutable copy of the index; all methods are thread-safe
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> ids;
+        private long[] cents;
+
+        private Builder(Snapshot base) {
+            this.ids = new HashMap<>(base.ids());
+            this.cents = Arrays.copyOf(base.cents(), Math.max(base.cents().length, PLATFORMS.length * 16));
+            Arrays.fill(this.cents, base.cents().length, this.cents.length, MISSING);
+        }
+
+        public synchronized void put(String itemName, Platform platform, BigDecimal price) {
+            String key = normalize(itemName);
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = ids.size();
+                ids.put(key, id);
+                ensureCapacity((id + 1) * PLATFORMS.length);
+            }
+            cents[id * PLATFORMS.length + platform.ordinal()] =
+                    price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+
+        public synchronized void putAll(Platform platform, Map<String, BigDecimal> prices) {
+            prices.forEach((itemName, price) -> put(itemName, platform, price));
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > cents.length) {
+                int oldLength = cents.length;
+                cents = Arrays.copyOf(cents, Math.max(required, oldLength * 2));
+                Arrays.fill(cents, oldLength, cents.length, MISSING);
+            }
+        }
+
+        private synchronized Snapshot build() {
+            return new Snapshot(Map.copyOf(ids), Arrays.copyOf(cents, ids.size() * PLATFORMS.length));
+        }
+    }
+}
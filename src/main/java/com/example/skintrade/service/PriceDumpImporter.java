@@ -0,0 +1,191 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import com.example.skintrade.repository.ItemPriceJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Imports daily marketplace price dumps into the item price table and the in-memory index.
+ * <p>
+ * Dumps are picked up from {@code price-import.directory}; the platform is taken from the file name
+ * prefix ({@code steam-2024-05-01.csv}, {@code csm.json}). Platforms are imported in parallel, but the
+ * files of one platform are imported one after another in name order, so the newest dump wins and no two
+ * threads write the same rows. Each file is streamed and upserted in chunks. Imported files are moved to
+ * the {@code processed} subdirectory; when a file fails, it and the later files of its platform are left
+ * in place and retried on the next run.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class PriceDumpImporter {
+
+    private static final int CHUNK_SIZE = 5000;
+    private static final String PROCESSED_DIRECTORY = "processed";
+
+    private final ItemPriceJdbcRepository itemPriceRepository;
+    private final ItemPriceIndex itemPriceIndex;
+    private final FxRateService fxRateService;
+    private final Path directory;
+    private final int parallelism;
+
+    public PriceDumpImporter(ItemPriceJdbcRepository itemPriceRepository,
+                             ItemPriceIndex itemPriceIndex,
+                             FxRateService fxRateService,
+                             @Value("${price-import.directory:price-dumps}") Path directory,
+                             @Value("${price-import.parallelism:4}") int parallelism) {
+        this.itemPriceRepository = itemPriceRepository;
+        this.itemPriceIndex = itemPriceIndex;
+        this.fxRateService = fxRateService;
+        this.directory = directory;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Import every pending dump file
+     */
+    @Scheduled(cron = "${price-import.cron:0 0 6 * * *}")
+    public void importPendingDumps() {
+        Map<Platform, List<Path>> filesByPlatform = groupByPlatform(findPendingDumps());
+        if (filesByPlatform.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicLong totalRows = new AtomicLong();
+        int fileCount = filesByPlatform.values().stream().mapToInt(List::size).sum();
+
+        itemPriceIndex.update(builder -> {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, filesByPlatform.size()));
+            try {
+                List<Future<Long>> results = new ArrayList<>();
+                for (List<Path> files : filesByPlatform.values()) {
+                    results.add(executor.submit(() -> importPlatformFiles(files, builder)));
+                }
+                for (Future<Long> result : results) {
+                    try {
+                        totalRows.addAndGet(result.get());
+                    } catch (ExecutionException e) {
+                        log.error("Error importing price dumps: {}", e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Price dump import interrupted");
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Imported {} rows from {} price dumps in {} ms ({} rows/s), index holds {} items",
+                totalRows.get(), fileCount, elapsedMillis, totalRows.get() * 1000 / elapsedMillis, itemPriceIndex.size());
+    }
+
+    private List<Path> findPendingDumps() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                    .filter(Files::isRegularFile)
+                    .filter(PriceDumpReader::isSupported)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.error("Error listing price dumps in {}: {}", directory, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    private Map<Platform, List<Path>> groupByPlatform(List<Path> files) {
+        Map<Platform, List<Path>> filesByPlatform = new EnumMap<>(Platform.class);
+        for (Path file : files) {
+            try {
+                filesByPlatform.computeIfAbsent(platformOf(file), platform -> new ArrayList<>()).add(file);
+            } catch (IllegalArgumentException e) {
+                log.error("Skipping price dump {}: {}", file.getFileName(), e.getMessage());
+            }
+        }
+        return filesByPlatform;
+    }
+
+    /**
+     * Import the dumps of one platform in order, stopping at the first failure so an older dump
+     * is never imported after a newer one
+     */
+    private long importPlatformFiles(List<Path> files, ItemPriceIndex.Builder builder) {
+        long rows = 0;
+        for (Path file : files) {
+            try {
+                rows += importFile(file, builder);
+            } catch (IOException | RuntimeException e) {
+                log.error("Error importing price dump {}: {}", file.getFileName(), e.getMessage(), e);
+                break;
+            }
+        }
+        return rows;
+    }
+
+    private long importFile(Path file, ItemPriceIndex.Builder builder) throws IOException {
+        Platform platform = platformOf(file);
+        String currency = fxRateService.getDefaultCurrency(platform);
+        LocalDateTime importedAt = LocalDateTime.now();
+        Map<String, BigDecimal> chunk = new LinkedHashMap<>();
+        long startedAt = System.nanoTime();
+
+        long rows = PriceDumpReader.read(file, (itemName, price) -> {
+            chunk.put(itemName, fxRateService.toBase(price, currency));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush(platform, chunk, importedAt, builder);
+            }
+        });
+        flush(platform, chunk, importedAt, builder);
+
+        Path processed = Files.createDirectories(directory.resolve(PROCESSED_DIRECTORY));
+        Files.move(file, processed.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Imported {} {} prices from {} in {} ms ({} rows/s)",
+                rows, platform.getCode(), file.getFileName(), elapsedMillis, rows * 1000 / elapsedMillis);
+        return rows;
+    }
+
+    private void flush(Platform platform, Map<String, BigDecimal> chunk, LocalDateTime importedAt,
+                       ItemPriceIndex.Builder builder) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        itemPriceRepository.upsert(platform.getCode(), chunk, importedAt);
+        builder.putAll(platform, chunk);
+        chunk.clear();
+    }
+
+    private static Platform platformOf(Path file) {
+        String name = file.getFileName().toString();
+        String prefix = name.split("[-_.]", 2)[0];
+        return Platform.fromCode(prefix);
+    }
+}
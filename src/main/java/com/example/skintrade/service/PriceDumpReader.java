@@ -0,0 +1,274 @@
+package com.example.skintrade.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streams item/price rows out of a market price dump without loading the file into memory.
+ * <p>
+ * The file is memory-mapped window by window. CSV dumps ({@code item,price}, optional header,
+ * RFC 4180 quoting) are scanned byte by byte; JSON dumps are read with Jackson's streaming parser
+ * and may be either an object ({@code {"item": 1.23}} or {@code {"item": {"price": 1.23}}}) or an
+ * array of objects with a {@code market_hash_name}/{@code name}/{@code item} and a {@code price} field.
+ */
+final class PriceDumpReader {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Set<String> NAME_FIELDS = Set.of("market_hash_name", "name", "item");
+    private static final String PRICE_FIELD = "price";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private PriceDumpReader() {
+    }
+
+    @FunctionalInterface
+    interface RowHandler {
+        void accept(String itemName, BigDecimal price);
+    }
+
+    static boolean isSupported(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".csv") || name.endsWith(".json");
+    }
+
+    /**
+     * Read all rows of a dump file
+     *
+     * @param file the dump file, {@code .csv} or {@code .json}
+     * @param handler receives every row with a valid price
+     * @return the number of rows passed to the handler
+     * @throws IOException if the file cannot be read or has an unsupported layout
+     */
+    static long read(Path file, RowHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             InputStream in = new MappedInputStream(channel)) {
+            return file.getFileName().toString().toLowerCase().endsWith(".json")
+                    ? readJson(in, handler)
+                    : readCsv(in, handler);
+        }
+    }
+
+    private static long readCsv(InputStream in, RowHandler handler) throws IOException {
+        List<String> fields = new ArrayList<>(4);
+        FieldBuffer field = new FieldBuffer();
+        long rows = 0;
+        boolean firstRecord = true;
+
+        while (readRecord(in, fields, field)) {
+            String itemName = fields.get(0);
+            if (firstRecord && itemName.startsWith(BYTE_ORDER_MARK)) {
+                itemName = itemName.substring(BYTE_ORDER_MARK.length());
+            }
+            firstRecord = false;
+
+            // Skips the header, blank lines and malformed rows
+            BigDecimal price = fields.size() < 2 ? null : parsePrice(fields.get(1));
+            if (price == null || itemName.isBlank()) {
+                continue;
+            }
+
+            handler.accept(itemName, price);
+            rows++;
+        }
+        return rows;
+    }
+
+    private static boolean readRecord(InputStream in, List<String> fields, FieldBuffer field) throws IOException {
+        fields.clear();
+        int b = in.read();
+        if (b == -1) {
+            return false;
+        }
+
+        boolean inQuotes = false;
+        while (b != -1) {
+            if (inQuotes) {
+                if (b == '"') {
+                    int next = in.read();
+                    if (next != '"') {
+                        inQuotes = false;
+                        b = next;
+                        continue;
+                    }
+                }
+                field.append(b);
+            } else if (b == '"') {
+                inQuotes = true;
+            } else if (b == ',') {
+                fields.add(field.take());
+            } else if (b == '\n') {
+                break;
+            } else if (b != '\r') {
+                field.append(b);
+            }
+            b = in.read();
+        }
+        fields.add(field.take());
+        return true;
+    }
+
+    private static long readJson(InputStream in, RowHandler handler) throws IOException {
+        long rows = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            JsonToken root = parser.nextToken();
+
+            if (root == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String itemName = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    BigDecimal price = value == JsonToken.START_OBJECT
+                            ? readObject(parser).price()
+                            : readPrice(parser);
+                    if (price != null) {
+                        handler.accept(itemName, price);
+                        rows++;
+                    }
+                }
+            } else if (root == JsonToken.START_ARRAY) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                    if (element != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    JsonRow row = readObject(parser);
+                    if (row.itemName() != null && row.price() != null) {
+                        handler.accept(row.itemName(), row.price());
+                        rows++;
+                    }
+                }
+            } else {
+                throw new IOException("Unsupported JSON dump layout, expected an object or an array");
+            }
+        }
+        return rows;
+    }
+
+    private static JsonRow readObject(JsonParser parser) throws IOException {
+        String itemName = null;
+        BigDecimal price = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (PRICE_FIELD.equals(fieldName)) {
+                price = readPrice(parser);
+            } else if (NAME_FIELDS.contains(fieldName) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                itemName = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new JsonRow(itemName, price);
+    }
+
+    private static BigDecimal readPrice(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            BigDecimal price = parser.getDecimalValue();
+            return price.signum() > 0 ? price : null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return parsePrice(parser.getText());
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        try {
+            BigDecimal price = new BigDecimal(value.trim());
+            return price.signum() > 0 ? price : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record JsonRow(String itemName, BigDecimal price) {
+    }
+
+    /**
+     * Growable byte buffer for one CSV field, decoded as UTF-8 when the field is complete
+     */
+    private static final class FieldBuffer {
+
+        private byte[] bytes = new byte[128];
+        private int length;
+
+        void append(int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+            bytes[length++] = (byte) b;
+        }
+
+        String take() {
+            String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            length = 0;
+            return value;
+        }
+    }
+
+    /**
+     * Reads a file through successive read-only memory mappings
+     */
+    private static final class MappedInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long size;
+        private long position;
+        private MappedByteBuffer window;
+
+        MappedInputStream(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return nextWindow() ? window.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!nextWindow()) {
+                return -1;
+            }
+            int count = Math.min(length, window.remaining());
+            window.get(buffer, offset, count);
+            return count;
+        }
+
+        private boolean nextWindow() throws IOException {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (position >= size) {
+                return false;
+            }
+            long length = Math.min(WINDOW_SIZE, size - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+            return true;
+        }
+    }
+}
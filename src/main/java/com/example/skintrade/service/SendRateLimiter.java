@@ -0,0 +1,71 @@
+package com.example.skintrade.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking limiter for outgoing messages: a global rate across all chats plus a minimum
+ * interval between two messages to the same chat. Each caller reserves the next free slot
+ * and sleeps until it comes, so the limiter itself never holds a lock while waiting.
+ */
+public class SendRateLimiter {
+
+    private static final int CHAT_SLOTS_PRUNE_THRESHOLD = 10_000;
+
+    private final long globalIntervalNanos;
+    private final long chatIntervalNanos;
+    private final Map<Long, Long> nextChatSlots = new HashMap<>();
+    private long nextGlobalSlot = System.nanoTime();
+
+    public SendRateLimiter(int messagesPerSecond, Duration chatInterval) {
+        if (messagesPerSecond <= 0) {
+            throw new IllegalArgumentException("Message rate must be positive: " + messagesPerSecond);
+        }
+        this.globalIntervalNanos = TimeUnit.SECONDS.toNanos(1) / messagesPerSecond;
+        this.chatIntervalNanos = chatInterval.toNanos();
+    }
+
+    /**
+     * Wait until a message may be sent to the chat
+     *
+     * @param chatId the receiving chat
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(Long chatId) throws InterruptedException {
+        long slot = reserve(chatId, System.nanoTime());
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Hold back every caller, e.g. after the API answered with a retry-after
+     *
+     * @param duration how long from now no new slot is handed out
+     */
+    public synchronized void pause(Duration duration) {
+        long resumeAt = System.nanoTime() + duration.toNanos();
+        if (resumeAt - nextGlobalSlot > 0) {
+            nextGlobalSlot = resumeAt;
+        }
+    }
+
+    private synchronized long reserve(Long chatId, long now) {
+        if (nextChatSlots.size() > CHAT_SLOTS_PRUNE_THRESHOLD) {
+            nextChatSlots.values().removeIf(chatSlot -> chatSlot - now <= 0);
+        }
+
+        long slot = Math.max(now, nextGlobalSlot);
+        Long chatSlot = nextChatSlots.get(chatId);
+        if (chatSlot != null && chatSlot - slot > 0) {
+            slot = chatSlot;
+        }
+
+        nextGlobalSlot = slot + globalIntervalNanos;
+        nextChatSlots.put(chatId, slot + chatIntervalNanos);
+        return slot;
+    }
+}
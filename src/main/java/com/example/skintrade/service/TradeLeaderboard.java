@@ -0,0 +1,157 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.LeaderboardEntry;
+import com.example.skintrade.model.LeaderboardPeriod;
+import com.example.skintrade.repository.TradeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Global leaderboard of the trades with the highest profit percentage.
+ * <p>
+ * Every {@link LeaderboardPeriod} keeps a bounded, sorted, immutable snapshot that is
+ * replaced with compare-and-set, so readers never take a lock. A snapshot remembers the
+ * bucket it was built for; once the bucket rolls over readers treat it as empty and the
+ * next write starts a fresh one.
+ */
+@Service
+@Slf4j
+public class TradeLeaderboard {
+
+    private static final Comparator<LeaderboardEntry> BY_PROFIT_DESC =
+            Comparator.comparing(LeaderboardEntry::profitPercentage).reversed();
+
+    private final TradeRepository tradeRepository;
+    private final int capacity;
+    private final Map<LeaderboardPeriod, AtomicReference<Snapshot>> buckets = new EnumMap<>(LeaderboardPeriod.class);
+
+    public TradeLeaderboard(TradeRepository tradeRepository, @Value("${leaderboard.size:10}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Leaderboard size must be positive: " + capacity);
+        }
+        this.tradeRepository = tradeRepository;
+        this.capacity = capacity;
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            buckets.put(period, new AtomicReference<>(new Snapshot(LocalDateTime.MIN, List.of())));
+        }
+    }
+
+    /**
+     * Get the best trades of the current bucket
+     *
+     * @param period the time bucket
+     * @return trades ordered by profit percentage (highest first)
+     */
+    public List<LeaderboardEntry> getTop(LeaderboardPeriod period) {
+        return getTop(period, LocalDateTime.now());
+    }
+
+    List<LeaderboardEntry> getTop(LeaderboardPeriod period, LocalDateTime now) {
+        Snapshot snapshot = buckets.get(period).get();
+        return snapshot.windowStart().equals(period.windowStart(now)) ? snapshot.entries() : List.of();
+    }
+
+    /**
+     * Fold a newly committed trade into the leaderboard
+     *
+     * @param event the saved trade
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeSaved(TradeSavedEvent event) {
+        offer(LeaderboardEntry.from(event.trade()), LocalDateTime.now());
+    }
+
+    /**
+     * Rebuild all buckets from the database in a single streaming pass
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LongAdder rows = new LongAdder();
+
+        try (Stream<LeaderboardEntry> entries = tradeRepository.streamLeaderboardEntries()) {
+            entries.forEach(entry -> {
+                offer(entry, now);
+                rows.increment();
+            });
+        }
+
+        log.info("Leaderboard rebuilt from {} trades in {} ms", rows.sum(), System.currentTimeMillis() - startedAt);
+    }
+
+    void offer(LeaderboardEntry entry, LocalDateTime now) {
+        if (entry.profitPercentage() == null || entry.createdAt() == null) {
+            return;
+        }
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            LocalDateTime windowStart = period.windowStart(now);
+            if (!entry.createdAt().isBefore(windowStart)) {
+                offer(buckets.get(period), entry, windowStart);
+            }
+        }
+    }
+
+    private void offer(AtomicReference<Snapshot> bucket, LeaderboardEntry entry, LocalDateTime windowStart) {
+        while (true) {
+            Snapshot current = bucket.get();
+            if (current.windowStart().isAfter(windowStart)) {
+                // Another writer has already rolled the bucket past this entry
+                return;
+            }
+
+            Snapshot base = current.windowStart().equals(windowStart) ? current : new Snapshot(windowStart, List.of());
+            Snapshot updated = base.with(entry, capacity);
+            if (updated == current || bucket.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private record Snapshot(LocalDateTime windowStart, List<LeaderboardEntry> entries) {
+
+        Snapshot with(LeaderboardEntry entry, int capacity) {
+            if (entries.size() >= capacity
+                    && entry.profitPercentage().compareTo(entries.get(entries.size() - 1).profitPercentage()) <= 0) {
+                return this;
+            }
+            for (LeaderboardEntry existing : entries) {
+                if (existing.tradeId() != null && existing.tradeId().equals(entry.tradeId())) {
+                    return this;
+                }
+            }
+
+            // Insert after entries with an equal percentage so older trades keep their rank
+            int position = 0;
+            while (position < entries.size() && BY_PROFIT_DESC.compare(entries.get(position), entry) <= 0) {
+                position++;
+            }
+
+            List<LeaderboardEntry> merged = new ArrayList<>(entries.size() + 1);
+            merged.addAll(entries);
+            merged.add(position, entry);
+            if (merged.size() > capacity) {
+                merged.remove(merged.size() - 1);
+            }
+            return new Snapshot(windowStart, List.copyOf(merged));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Trade;
+
+/**
+ * Published by {@link TradeService} after a trade has been persisted
+ */
+public record TradeSavedEvent(Trade trade) {
+}
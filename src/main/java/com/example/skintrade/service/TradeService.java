@@ -1,10 +1,12 @@
 package com.example.skintrade.service;
 
 import com.example.skintrade.model.Platform;
+import com.example.skintrade.model.PriceQuote;
 import com.example.skintrade.model.Trade;
 import com.example.skintrade.repository.TradeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,31 @@ import java.util.stream.Collectors;
 public class TradeService {
 
     private final TradeRepository tradeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FxRateService fxRateService;
+
+    /**
+     * Convert quotes into the base currency, then calculate and save the trade
+     *
+     * @param userId Telegram user ID
+     * @param username Telegram username
+     * @param quotes Prices per platform, each in its own or the platform's default currency
+     * @return The calculated trade with prices in the base currency
+     */
+    @Transactional
+    public Trade calculateAndSaveTrade(Long userId, String username, List<PriceQuote> quotes) {
+        validatePlatforms(quotes.stream().map(PriceQuote::platform).collect(Collectors.toSet()));
+
+        Map<String, BigDecimal> platformPrices = new LinkedHashMap<>();
+        for (PriceQuote quote : quotes) {
+            String currency = quote.currency() != null
+                    ? quote.currency()
+                    : fxRateService.getDefaultCurrency(Platform.fromCode(quote.platform()));
+            platformPrices.put(quote.platform(), fxRateService.toBase(quote.amount(), currency));
+        }
+
+        return calculateAndSaveTrade(userId, username, platformPrices);
+    }
 
     /**
      * Calculate profit/loss between multiple trading platforms and save the trade
@@ -74,7 +101,9 @@ public class TradeService {
                 .profitPercentage(profitPercentage)
                 .build();
 
-        return tradeRepository.save(trade);
+        Trade saved = tradeRepository.save(trade);
+        eventPublisher.publishEvent(new TradeSavedEvent(saved));
+        return saved;
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.example.skintrade.service;
+
+/**
+ * Thrown when a price is quoted in a currency without a loaded exchange rate
+ */
+public class UnknownCurrencyException extends IllegalArgumentException {
+
+    private final String currency;
+
+    public UnknownCurrencyException(String currency) {
+        super("No exchange rate for currency: " + currency);
+        this.currency = currency;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
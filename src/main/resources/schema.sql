@@ -0,0 +1,46 @@
+-- Explicit schema, so that ddl-auto=validate works on fresh databases and after upgrades.
+-- Runs on every start (spring.sql.init.mode=always), so every statement must be idempotent.
+
+-- Same layout Hibernate generates for Trade; declared here so the index below can be created before JPA starts
+CREATE TABLE IF NOT EXISTS trades (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT,
+    username          VARCHAR(255),
+    best_platform     VARCHAR(255),
+    best_price        NUMERIC(38, 2),
+    worst_platform    VARCHAR(255),
+    worst_price       NUMERIC(38, 2),
+    profit            NUMERIC(38, 2),
+    profit_percentage NUMERIC(38, 2),
+    created_at        TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS trade_prices (
+    trade_id BIGINT       NOT NULL,
+    platform VARCHAR(255) NOT NULL,
+    price    NUMERIC(38, 2),
+    PRIMARY KEY (trade_id, platform),
+    CONSTRAINT fk_trade_prices_trade FOREIGN KEY (trade_id) REFERENCES trades (id)
+);
+
+-- Keyset pagination of digest recipients and /history lookups
+CREATE INDEX IF NOT EXISTS idx_trades_user_id ON trades (user_id);
+
+CREATE TABLE IF NOT EXISTS item_prices (
+    id         BIGSERIAL PRIMARY KEY,
+    item_name  VARCHAR(255)   NOT NULL,
+    platform   VARCHAR(255)   NOT NULL,
+    price      NUMERIC(38, 2) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_item_prices_item_platform UNIQUE (item_name, platform)
+);
+
+CREATE TABLE IF NOT EXISTS broadcast_checkpoints (
+    broadcast_id VARCHAR(255) PRIMARY KEY,
+    last_user_id BIGINT,
+    sent_count   BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    fees         VARCHAR(1000),
+    started_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6)
+);
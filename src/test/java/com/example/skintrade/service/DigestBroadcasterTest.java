@@ -0,0 +1,180 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.bot.SkinTradeBot;
+import com.example.skintrade.model.BroadcastCheckpoint;
+import com.example.skintrade.model.TradeSummary;
+import com.example.skintrade.repository.BroadcastCheckpointRepository;
+import com.example.skintrade.repository.TradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DigestBroadcasterTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private BroadcastCheckpointRepository checkpointRepository;
+
+    @Mock
+    private FxRateService fxRateService;
+
+    @Mock
+    private SkinTradeBot bot;
+
+    private DigestBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new DigestBroadcaster(tradeRepository, checkpointRepository, fxRateService, bot,
+                2, 2, 1000, Duration.ZERO, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void run_shouldResumeFromCheckpointAndPageThroughRecipients() throws Exception {
+        // Given
+        BroadcastCheckpoint checkpoint = BroadcastCheckpoint.builder()
+                .broadcastId("digest-2024-05-15")
+                .lastUserId(10L)
+                .sentCount(5)
+                .fees("steam=0.15")
+                .startedAt(LocalDateTime.of(2024, 5, 15, 9, 0))
+                .build();
+
+        when(checkpointRepository.findFirstByCompletedAtIsNotNullOrderByCompletedAtDesc()).thenReturn(Optional.empty());
+        when(tradeRepository.findUserIdsAfter(eq(10L), any(Pageable.class))).thenReturn(List.of(11L, 12L));
+        when(tradeRepository.findUserIdsAfter(eq(12L), any(Pageable.class))).thenReturn(List.of(13L));
+        when(tradeRepository.findUserIdsAfter(eq(13L), any(Pageable.class))).thenReturn(List.of());
+        when(tradeRepository.summarizeTradesSince(anyCollection(), eq(LocalDateTime.of(2024, 5, 14, 9, 0))))
+                .thenReturn(List.of(new TradeSummary(11L, 2L, new BigDecimal("7.50"), new BigDecimal("12.00"))));
+        when(fxRateService.getBaseCurrency()).thenReturn("USD");
+        TelegramApiRequestException blocked = mock(TelegramApiRequestException.class);
+        when(blocked.getErrorCode()).thenReturn(403);
+        when(bot.execute(any(SendMessage.class)))
+                .thenAnswer(invocation -> {
+                    SendMessage message = invocation.getArgument(0);
+                    if ("12".equals(message.getChatId())) {
+                        throw blocked;
+                    }
+                    return null;
+                });
+
+        // When
+        broadcaster.run(checkpoint);
+
+        // Then
+        ArgumentCaptor<SendMessage> messages = ArgumentCaptor.forClass(SendMessage.class);
+        verify(bot, times(3)).execute(messages.capture());
+        assertTrue(messages.getAllValues().stream()
+                .anyMatch(message -> "11".equals(message.getChatId()) && message.getText().contains("Total profit: 7.50 USD")));
+
+        assertEquals(13L, checkpoint.getLastUserId());
+        assertEquals(7, checkpoint.getSentCount());
+        assertEquals(1, checkpoint.getFailedCount());
+        assertNotNull(checkpoint.getCompletedAt());
+        verify(checkpointRepository, times(3)).save(checkpoint);
+    }
+
+    @Test
+    void run_shouldRetryTransientFailuresBeforeSavingCheckpoint() throws Exception {
+        // Given
+        BroadcastCheckpoint checkpoint = BroadcastCheckpoint.builder()
+                .broadcastId("digest-2024-05-15")
+                .startedAt(LocalDateTime.of(2024, 5, 15, 9, 0))
+                .build();
+
+        when(checkpointRepository.findFirstByCompletedAtIsNotNullOrderByCompletedAtDesc()).thenReturn(Optional.empty());
+        when(tradeRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(21L, 22L));
+        when(tradeRepository.findUserIdsAfter(eq(22L), any(Pageable.class))).thenReturn(List.of());
+        when(tradeRepository.summarizeTradesSince(anyCollection(), any(LocalDateTime.class))).thenReturn(List.of());
+        AtomicInteger attemptsTo22 = new AtomicInteger();
+        when(bot.execute(any(SendMessage.class)))
+                .thenAnswer(invocation -> {
+                    SendMessage message = invocation.getArgument(0);
+                    if ("22".equals(message.getChatId()) && attemptsTo22.incrementAndGet() == 1) {
+                        throw new TelegramApiException("Unable to execute sendmessage method");
+                    }
+                    return null;
+                });
+
+        // When
+        broadcaster.run(checkpoint);
+
+        // Then
+        verify(bot, times(3)).execute(any(SendMessage.class));
+        assertEquals(2, attemptsTo22.get());
+        assertEquals(22L, checkpoint.getLastUserId());
+        assertEquals(2, checkpoint.getSentCount());
+        assertEquals(0, checkpoint.getFailedCount());
+    }
+
+    @Test
+    void shutdown_shouldStopSendingWithoutSavingCheckpoint() throws Exception {
+        // Given
+        BroadcastCheckpoint checkpoint = BroadcastCheckpoint.builder()
+                .broadcastId("digest-2024-05-15")
+                .startedAt(LocalDateTime.of(2024, 5, 15, 9, 0))
+                .build();
+
+        when(checkpointRepository.findByCompletedAtIsNullOrderByStartedAtAsc()).thenReturn(List.of(checkpoint));
+        when(checkpointRepository.findFirstByCompletedAtIsNotNullOrderByCompletedAtDesc()).thenReturn(Optional.empty());
+        when(tradeRepository.findUserIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(31L, 32L));
+        when(tradeRepository.summarizeTradesSince(anyCollection(), any(LocalDateTime.class))).thenReturn(List.of());
+        CountDownLatch sending = new CountDownLatch(1);
+        when(bot.execute(any(SendMessage.class)))
+                .thenAnswer(invocation -> {
+                    sending.countDown();
+                    TimeUnit.SECONDS.sleep(30);
+                    return null;
+                });
+        broadcaster.resumeUnfinished();
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // When
+        broadcaster.shutdown();
+
+        // Then
+        verify(checkpointRepository, after(500).never()).save(any(BroadcastCheckpoint.class));
+        assertNull(checkpoint.getLastUserId());
+    }
+
+    @Test
+    void render_shouldMentionMissingTrades() {
+        // When
+        String text = broadcaster.render("Platform fees unchanged. See /fees.\n", null);
+
+        // Then
+        assertTrue(text.contains("Platform fees unchanged"));
+        assertTrue(text.contains("No trades saved"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRateServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void toBase_shouldConvertWithLoadedRates() throws IOException {
+        // Given
+        Path ratesFile = tempDir.resolve("fx-rates.properties");
+        Files.writeString(ratesFile, "EUR=1.08\nrub=0.011\n");
+
+        // When
+        FxRateService fxRateService = new FxRateService("usd", new FileSystemResource(ratesFile), new MockEnvironment());
+
+        // Then
+        assertEquals("USD", fxRateService.getBaseCurrency());
+        assertEquals(new BigDecimal("108.00"), fxRateService.toBase(new BigDecimal("100"), "eur"));
+        assertEquals(new BigDecimal("13.75"), fxRateService.toBase(new BigDecimal("1250"), "RUB"));
+        assertEquals(new BigDecimal("95.00"), fxRateService.toBase(new BigDecimal("95"), "USD"));
+    }
+
+    @Test
+    void toBase_shouldRejectUnknownCurrency() {
+        // Given
+        FxRateService fxRateService = new FxRateService("USD", new FileSystemResource(tempDir.resolve("missing")),
+                new MockEnvironment());
+
+        // When & Then
+        UnknownCurrencyException exception = assertThrows(UnknownCurrencyException.class,
+                () -> fxRateService.toBase(BigDecimal.TEN, "EUR"));
+        assertEquals("EUR", exception.getCurrency());
+        assertEquals(Set.of("USD"), fxRateService.getSupportedCurrencies());
+    }
+
+    @Test
+    void refresh_shouldKeepPreviousRatesWhenFileIsInvalid() throws IOException {
+        // Given
+        Path ratesFile = tempDir.resolve("fx-rates.properties");
+        Files.writeString(ratesFile, "EUR=1.10\n");
+        FxRateService fxRateService = new FxRateService("USD", new FileSystemResource(ratesFile), new MockEnvironment());
+
+        // When
+        Files.writeString(ratesFile, "EUR=abc\n");
+        fxRateService.refresh();
+
+        // Then
+        assertEquals(new BigDecimal("11.00"), fxRateService.toBase(BigDecimal.TEN, "EUR"));
+    }
+
+    @Test
+    void getDefaultCurrency_shouldUseConfiguredPlatformCurrency() {
+        // Given
+        MockEnvironment environment = new MockEnvironment().withProperty("fx.platform-currency.steam", "eur");
+
+        // When
+        FxRateService fxRateService = new FxRateService("USD", new FileSystemResource(tempDir.resolve("missing")),
+                environment);
+
+        // Then
+        assertEquals("EUR", fxRateService.getDefaultCurrency(Platform.STEAM));
+        assertEquals("USD", fxRateService.getDefaultCurrency(Platform.CSM));
+    }
+}
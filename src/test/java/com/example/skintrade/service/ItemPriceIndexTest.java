@@ -0,0 +1,63 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import com.example.skintrade.repository.ItemPriceJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemPriceIndexTest {
+
+    @Mock
+    private ItemPriceJdbcRepository itemPriceRepository;
+
+    @InjectMocks
+    private ItemPriceIndex itemPriceIndex;
+
+    @Test
+    void update_shouldMergePricesOfAllPlatforms() {
+        // When
+        itemPriceIndex.update(builder -> {
+            builder.putAll(Platform.STEAM, Map.of("AK-47 | Redline (Field-Tested)", new BigDecimal("12.5")));
+            builder.putAll(Platform.CSM, Map.of("ak-47 | redline (field-tested)", new BigDecimal("10.999")));
+        });
+        itemPriceIndex.update(builder -> builder.put("Case Key", Platform.FLOAT, new BigDecimal("2.49")));
+
+        // Then
+        Map<Platform, BigDecimal> prices = itemPriceIndex.lookup(" AK-47 | REDLINE (Field-Tested) ");
+        assertEquals(2, itemPriceIndex.size());
+        assertEquals(Map.of(Platform.STEAM, new BigDecimal("12.50"), Platform.CSM, new BigDecimal("11.00")), prices);
+        assertEquals(Map.of(Platform.FLOAT, new BigDecimal("2.49")), itemPriceIndex.lookup("case key"));
+        assertTrue(itemPriceIndex.lookup("unknown").isEmpty());
+    }
+
+    @Test
+    void rebuild_shouldReplaceIndexWithStoredPrices() {
+        // Given
+        itemPriceIndex.update(builder -> builder.put("Stale item", Platform.STEAM, BigDecimal.ONE));
+        doAnswer(invocation -> {
+            ItemPriceJdbcRepository.PriceRowHandler handler = invocation.getArgument(0);
+            handler.accept("Case Key", "steam", new BigDecimal("2.60"));
+            handler.accept("Case Key", "unknown", new BigDecimal("1.00"));
+            return null;
+        }).when(itemPriceRepository).forEachPrice(any());
+
+        // When
+        itemPriceIndex.rebuild();
+
+        // Then
+        assertEquals(1, itemPriceIndex.size());
+        assertTrue(itemPriceIndex.lookup("Stale item").isEmpty());
+        assertEquals(Map.of(Platform.STEAM, new BigDecimal("2.60")), itemPriceIndex.lookup("case key"));
+    }
+}
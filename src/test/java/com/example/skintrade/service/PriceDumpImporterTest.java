@@ -0,0 +1,75 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.Platform;
+import com.example.skintrade.repository.ItemPriceJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceDumpImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ItemPriceJdbcRepository itemPriceRepository;
+
+    private ItemPriceIndex itemPriceIndex;
+    private PriceDumpImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        itemPriceIndex = new ItemPriceIndex(itemPriceRepository);
+        FxRateService fxRateService = new FxRateService("USD",
+                new FileSystemResource(tempDir.resolve("missing")), new MockEnvironment());
+        importer = new PriceDumpImporter(itemPriceRepository, itemPriceIndex, fxRateService, tempDir, 4);
+    }
+
+    @Test
+    void importPendingDumps_shouldLetNewerDumpOfSamePlatformWin() throws IOException {
+        // Given
+        Files.writeString(tempDir.resolve("steam-2024-05-02.csv"), "Case Key,3.00\n");
+        Files.writeString(tempDir.resolve("steam-2024-05-01.csv"), "Case Key,2.00\n");
+        Files.writeString(tempDir.resolve("csm-2024-05-01.csv"), "Case Key,2.50\n");
+
+        List<String> steamUpserts = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            if ("steam".equals(invocation.getArgument(0))) {
+                Map<String, BigDecimal> prices = invocation.getArgument(1);
+                steamUpserts.add(prices.get("Case Key").toPlainString());
+            }
+            return null;
+        }).when(itemPriceRepository).upsert(anyString(), anyMap(), any());
+
+        // When
+        importer.importPendingDumps();
+
+        // Then
+        assertEquals(List.of("2.00", "3.00"), steamUpserts);
+        assertEquals(Map.of(Platform.STEAM, new BigDecimal("3.00"), Platform.CSM, new BigDecimal("2.50")),
+                itemPriceIndex.lookup("Case Key"));
+        assertTrue(Files.exists(tempDir.resolve("processed").resolve("steam-2024-05-02.csv")));
+        assertFalse(Files.exists(tempDir.resolve("steam-2024-05-01.csv")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.skintrade.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceDumpReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_shouldParseCsvWithHeaderAndQuotedFields() throws IOException {
+        // Given
+        Path file = tempDir.resolve("steam-2024-05-01.csv");
+        Files.writeString(file, "item,price\r\n" +
+                "AK-47 | Redline (Field-Tested),12.50\r\n" +
+                "\"Sticker | Team \"\"A\"\", 2020\",0.99\r\n" +
+                "\n" +
+                "Broken row,abc\n" +
+                "AWP | Asiimov (Battle-Scarred),45");
+
+        // When
+        Map<String, BigDecimal> rows = new LinkedHashMap<>();
+        long count = PriceDumpReader.read(file, rows::put);
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(new BigDecimal("12.50"), rows.get("AK-47 | Redline (Field-Tested)"));
+        assertEquals(new BigDecimal("0.99"), rows.get("Sticker | Team \"A\", 2020"));
+        assertEquals(new BigDecimal("45"), rows.get("AWP | Asiimov (Battle-Scarred)"));
+    }
+
+    @Test
+    void read_shouldParseJsonObjectDump() throws IOException {
+        // Given
+        Path file = tempDir.resolve("csm.json");
+        Files.writeString(file, "{\"AK-47 | Redline (Field-Tested)\": 11.2, " +
+                "\"AWP | Asiimov (Battle-Scarred)\": {\"price\": \"40.10\", \"volume\": [1, 2]}, " +
+                "\"Unpriced\": null}");
+
+        // When
+        Map<String, BigDecimal> rows = new LinkedHashMap<>();
+        long count = PriceDumpReader.read(file, rows::put);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(new BigDecimal("11.2"), rows.get("AK-47 | Redline (Field-Tested)"));
+        assertEquals(new BigDecimal("40.10"), rows.get("AWP | Asiimov (Battle-Scarred)"));
+    }
+
+    @Test
+    void read_shouldParseJsonArrayDump() throws IOException {
+        // Given
+        Path file = tempDir.resolve("float.json");
+        Files.writeString(file, "[{\"market_hash_name\": \"AK-47 | Redline (Field-Tested)\", \"price\": 10.5, " +
+                "\"meta\": {\"x\": 1}}, {\"price\": 3}, {\"name\": \"Case Key\", \"price\": 2.49}]");
+
+        // When
+        Map<String, BigDecimal> rows = new LinkedHashMap<>();
+        long count = PriceDumpReader.read(file, rows::put);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(new BigDecimal("10.5"), rows.get("AK-47 | Redline (Field-Tested)"));
+        assertEquals(new BigDecimal("2.49"), rows.get("Case Key"));
+    }
+}
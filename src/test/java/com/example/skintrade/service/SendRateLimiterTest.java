@@ -0,0 +1,39 @@
+package com.example.skintrade.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SendRateLimiterTest {
+
+    @Test
+    void pause_shouldHoldBackEveryChat() throws Exception {
+        // Given
+        SendRateLimiter limiter = new SendRateLimiter(1000, Duration.ZERO);
+        limiter.acquire(1L);
+
+        // When
+        limiter.pause(Duration.ofMillis(200));
+        long startedAt = System.nanoTime();
+        limiter.acquire(2L);
+
+        // Then
+        assertTrue(System.nanoTime() - startedAt >= Duration.ofMillis(150).toNanos());
+    }
+
+    @Test
+    void acquire_shouldSpaceMessagesToSameChat() throws Exception {
+        // Given
+        SendRateLimiter limiter = new SendRateLimiter(1000, Duration.ofMillis(200));
+        limiter.acquire(1L);
+
+        // When
+        long startedAt = System.nanoTime();
+        limiter.acquire(1L);
+
+        // Then
+        assertTrue(System.nanoTime() - startedAt >= Duration.ofMillis(150).toNanos());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.skintrade.service;
+
+import com.example.skintrade.model.LeaderboardEntry;
+import com.example.skintrade.model.LeaderboardPeriod;
+import com.example.skintrade.repository.TradeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeLeaderboardTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    private TradeLeaderboard leaderboard;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new TradeLeaderboard(tradeRepository, 3);
+        // Wednesday
+        now = LocalDateTime.of(2024, 5, 15, 12, 0);
+    }
+
+    @Test
+    void offer_shouldKeepOnlyBestEntriesInDescendingOrder() {
+        // Given
+        leaderboard.offer(entry(1L, "5.00", now), now);
+        leaderboard.offer(entry(2L, "20.00", now), now);
+        leaderboard.offer(entry(3L, "10.00", now), now);
+        leaderboard.offer(entry(4L, "1.00", now), now);
+        leaderboard.offer(entry(5L, "15.00", now), now);
+
+        // When
+        List<LeaderboardEntry> top = leaderboard.getTop(LeaderboardPeriod.ALL, now);
+
+        // Then
+        assertEquals(List.of(2L, 5L, 3L), top.stream().map(LeaderboardEntry::tradeId).toList());
+    }
+
+    @Test
+    void offer_shouldIgnoreDuplicateTrades() {
+        // Given
+        LeaderboardEntry entry = entry(1L, "5.00", now);
+
+        // When
+        leaderboard.offer(entry, now);
+        leaderboard.offer(entry, now);
+
+        // Then
+        assertEquals(1, leaderboard.getTop(LeaderboardPeriod.DAY, now).size());
+    }
+
+    @Test
+    void offer_shouldPlaceTradesIntoMatchingBuckets() {
+        // Given
+        leaderboard.offer(entry(1L, "5.00", now.minusDays(1)), now);
+        leaderboard.offer(entry(2L, "7.00", now.minusDays(10)), now);
+        leaderboard.offer(entry(3L, "9.00", now), now);
+
+        // Then
+        assertEquals(List.of(3L), ids(leaderboard.getTop(LeaderboardPeriod.DAY, now)));
+        assertEquals(List.of(3L, 1L), ids(leaderboard.getTop(LeaderboardPeriod.WEEK, now)));
+        assertEquals(List.of(3L, 2L, 1L), ids(leaderboard.getTop(LeaderboardPeriod.ALL, now)));
+    }
+
+    @Test
+    void getTop_shouldReturnEmptyAfterBucketRollover() {
+        // Given
+        leaderboard.offer(entry(1L, "5.00", now), now);
+        LocalDateTime tomorrow = now.plusDays(1);
+
+        // Then
+        assertTrue(leaderboard.getTop(LeaderboardPeriod.DAY, tomorrow).isEmpty());
+        assertEquals(1, leaderboard.getTop(LeaderboardPeriod.WEEK, tomorrow).size());
+
+        // When a trade arrives in the new bucket
+        leaderboard.offer(entry(2L, "1.00", tomorrow), tomorrow);
+
+        // Then the old day is dropped
+        assertEquals(List.of(2L), ids(leaderboard.getTop(LeaderboardPeriod.DAY, tomorrow)));
+    }
+
+    @Test
+    void rebuild_shouldLoadAllTradesFromRepository() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(tradeRepository.streamLeaderboardEntries()).thenReturn(Stream.of(
+                entry(1L, "5.00", createdAt),
+                entry(2L, "8.00", createdAt)));
+
+        // When
+        leaderboard.rebuild();
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(leaderboard.getTop(LeaderboardPeriod.ALL)));
+    }
+
+    private static LeaderboardEntry entry(Long tradeId, String percentage, LocalDateTime createdAt) {
+        return new LeaderboardEntry(tradeId, "user" + tradeId, "steam", "csm", new BigDecimal(percentage), createdAt);
+    }
+
+    private static List<Long> ids(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::tradeId).toList();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.skintrade.service;
 
 import com.example.skintrade.model.Platform;
+import com.example.skintrade.model.PriceQuote;
 import com.example.skintrade.model.Trade;
 import com.example.skintrade.repository.TradeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +10,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +28,12 @@ class TradeServiceTest {
     @Mock
     private TradeRepository tradeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FxRateService fxRateService;
+
     @InjectMocks
     private TradeService tradeService;
 
@@ -67,6 +76,7 @@ class TradeServiceTest {
 
         // Then
         verify(tradeRepository, times(1)).save(any(Trade.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TradeSavedEvent.class));
 
         // Calculate expected values based on raw prices (without commission)
         BigDecimal steamPrice = new BigDecimal("100.00");
@@ -89,6 +99,29 @@ class TradeServiceTest {
         assertEquals(0, expectedPercentage.compareTo(result.getProfitPercentage()));
     }
 
+    @Test
+    void calculateAndSaveTrade_shouldConvertQuotesToBaseCurrency() {
+        // Given
+        when(tradeRepository.save(any(Trade.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fxRateService.toBase(new BigDecimal("100"), "EUR")).thenReturn(new BigDecimal("110.00"));
+        when(fxRateService.getDefaultCurrency(Platform.CSM)).thenReturn("USD");
+        when(fxRateService.toBase(new BigDecimal("100"), "USD")).thenReturn(new BigDecimal("100.00"));
+
+        List<PriceQuote> quotes = List.of(
+                new PriceQuote("steam", new BigDecimal("100"), "EUR"),
+                new PriceQuote("csm", new BigDecimal("100"), null));
+
+        // When
+        Trade result = tradeService.calculateAndSaveTrade(userId, username, quotes);
+
+        // Then
+        assertEquals("steam", result.getBestPlatform());
+        assertEquals(new BigDecimal("110.00"), result.getBestPrice());
+        assertEquals("csm", result.getWorstPlatform());
+        assertEquals(0, new BigDecimal("10.00").compareTo(result.getProfit()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(result.getProfitPercentage()));
+    }
+
     @Test
     void calculateAndSaveTrade_shouldThrowExceptionForInvalidPlatform() {
         // Given